@@ -26,6 +26,11 @@ public abstract class AbstractIcon extends Text {
      */
     private String family = null;
 
+    /**
+     * Precomputed metrics of the current glyph
+     */
+    private GlyphMetrics metrics = GlyphMetrics.DEFAULT;
+
     /**
      * Constructs an {@code AbstractIcon} instance.
      * Calls {@code initialize()} to set up the icon properties.
@@ -168,6 +173,15 @@ public abstract class AbstractIcon extends Text {
         return family;
     }
 
+    /**
+     * Returns the precomputed metrics of the current glyph.
+     *
+     * @return the {@link GlyphMetrics}, {@link GlyphMetrics#DEFAULT} if the glyph is not in the table
+     */
+    final GlyphMetrics metrics() {
+        return metrics;
+    }
+
     /**
      * Returns a {@link ResourceBundle} containing icon names and their corresponding unicode values.
      * Implementing classes must provide the resource bundle containing the icon mappings.
@@ -198,17 +212,10 @@ public abstract class AbstractIcon extends Text {
         if (string.isBlank())   {
             string= resource().getString(defaultIcon());
         }
-        String[] parts = string.split("/");
-        if (parts.length < 2){
-            throw new RuntimeException("No valid Icon was found");
-        }
-        String part = parts[0];
-        if (part.startsWith("U+")) {
-            part = "0x"+part.replace("U+", "");
-            part = new String(Character.toChars(Integer.decode(part)));
-        }
-        setText(part);
-        family = parts[1];
+        IconGlyph glyph = IconCatalog.parse(string);
+        setText(glyph.text());
+        family = glyph.family();
+        metrics = GlyphMetrics.of(glyph);
         handleSize(getSize());
     }
 
@@ -0,0 +1,102 @@
+package xss.it.nfx.icons;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Precomputed metrics of a glyph, normalized to a 1 unit em with y growing downwards from the baseline.
+ * The table is generated from the bundled fonts at build time, so no text layout is needed to size or
+ * center an icon.
+ *
+ * @param advance the horizontal advance
+ * @param minX    the left edge of the visual bounds
+ * @param minY    the top edge of the visual bounds
+ * @param maxX    the right edge of the visual bounds
+ * @param maxY    the bottom edge of the visual bounds
+ *
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public record GlyphMetrics(float advance, float minX, float minY, float maxX, float maxY) {
+    /**
+     * Fallback for glyphs missing from the table, a full em square on a typical 7/8 ascent.
+     */
+    public static final GlyphMetrics DEFAULT = new GlyphMetrics(1f, 0f, -0.875f, 1f, 0.125f);
+
+    /**
+     * Returns the metrics of a glyph.
+     *
+     * @param glyph the glyph
+     * @return the metrics, or {@link #DEFAULT} if the glyph is not in the table
+     */
+    public static GlyphMetrics of(IconGlyph glyph) {
+        if (glyph == null || glyph.text().isEmpty()) {
+            return DEFAULT;
+        }
+        String key = "U+" + Integer.toHexString(glyph.text().codePointAt(0)).toUpperCase(Locale.ROOT)
+                + "/" + glyph.family();
+        return Table.METRICS.getOrDefault(key, DEFAULT);
+    }
+
+    /**
+     * Returns the x of the glyph origin that centers its visual bounds horizontally in a box.
+     *
+     * @param box  the box width
+     * @param size the font size
+     * @return the origin x in pixels, from the left of the box
+     */
+    public double originX(double box, double size) {
+        return box / 2 - (minX + maxX) / 2 * size;
+    }
+
+    /**
+     * Returns the baseline that centers the glyph visual bounds vertically in a box.
+     *
+     * @param box  the box height
+     * @param size the font size
+     * @return the baseline in pixels, from the top of the box
+     */
+    public double originY(double box, double size) {
+        return box / 2 - (minY + maxY) / 2 * size;
+    }
+
+    /**
+     * Lazily loaded metrics table.
+     */
+    private static final class Table {
+        /**
+         * Metrics keyed by {@code U+XXXX/Font}.
+         */
+        private static final Map<String, GlyphMetrics> METRICS = load();
+
+        /**
+         * Reads {@code metrics.properties}; an absent table yields an empty map.
+         *
+         * @return the metrics
+         */
+        private static Map<String, GlyphMetrics> load() {
+            Properties props = new Properties();
+            try (InputStream in = GlyphMetrics.class.getResourceAsStream("/xss/it/nfx/icons/metrics.properties")) {
+                if (in != null) {
+                    props.load(in);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            Map<String, GlyphMetrics> metrics = new HashMap<>(props.size() * 4 / 3 + 1);
+            for (String key : props.stringPropertyNames()) {
+                String[] v = props.getProperty(key).split(",");
+                if (v.length != 5) {
+                    continue;
+                }
+                metrics.put(key, new GlyphMetrics(Float.parseFloat(v[0]), Float.parseFloat(v[1]),
+                        Float.parseFloat(v[2]), Float.parseFloat(v[3]), Float.parseFloat(v[4])));
+            }
+            return metrics;
+        }
+    }
+}
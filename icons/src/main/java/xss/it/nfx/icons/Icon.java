@@ -2,6 +2,8 @@ package xss.it.nfx.icons;
 
 import javafx.scene.text.Font;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ResourceBundle;
 
 /**
@@ -52,6 +54,28 @@ public final class Icon extends AbstractIcon {
         return ICONS;
     }
 
+    /**
+     * Whether the icon fonts have been registered with JavaFX.
+     */
+    private static boolean fontsLoaded = false;
+
+    /**
+     * Registers the bundled icon fonts with JavaFX. Calls after the first one do nothing.
+     */
+    static synchronized void registerFonts() {
+        if (fontsLoaded) return;
+        for (String font : IconCatalog.fonts()) {
+            try (InputStream in = IconCatalog.openFont(font)) {
+                if (in != null) {
+                    Font.loadFont(in, DEF_SIZE);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        fontsLoaded = true;
+    }
+
     /*
      * Load the font and icons
      */
@@ -60,20 +84,12 @@ public final class Icon extends AbstractIcon {
             /*
              * Font icons
              */
-            Font.loadFont(AbstractIcon.class.getResourceAsStream("/xss/it/nfx/icons/525icons.ttf"), DEF_SIZE);
-            Font.loadFont(AbstractIcon.class.getResourceAsStream("/xss/it/nfx/icons/emojione-svg.otf"), DEF_SIZE);
-            Font.loadFont(AbstractIcon.class.getResourceAsStream("/xss/it/nfx/icons/fa-brands-400.ttf"), DEF_SIZE);
-            Font.loadFont(AbstractIcon.class.getResourceAsStream("/xss/it/nfx/icons/feather.ttf"), DEF_SIZE);
-            Font.loadFont(AbstractIcon.class.getResourceAsStream("/xss/it/nfx/icons/fontawesome-webfont.ttf"), DEF_SIZE);
-            Font.loadFont(AbstractIcon.class.getResourceAsStream("/xss/it/nfx/icons/m-webfont.ttf"), DEF_SIZE);
-            Font.loadFont(AbstractIcon.class.getResourceAsStream("/xss/it/nfx/icons/MaterialIcons-Regular.ttf"), DEF_SIZE);
-            Font.loadFont(AbstractIcon.class.getResourceAsStream("/xss/it/nfx/icons/octicons.ttf"), DEF_SIZE);
-            Font.loadFont(AbstractIcon.class.getResourceAsStream("/xss/it/nfx/icons/weathericons-regular-webfont.ttf"), DEF_SIZE);
+            registerFonts();
 
             /*
              * Load Icon
              */
-            ICONS = ResourceBundle.getBundle("xss/it/nfx/icons/all");
+            ICONS = IconCatalog.bundle();
 
         }catch (Exception e){
             throw new RuntimeException(e);
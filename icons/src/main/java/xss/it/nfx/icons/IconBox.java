@@ -0,0 +1,242 @@
+package xss.it.nfx.icons;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.StringProperty;
+import javafx.geometry.Insets;
+import javafx.geometry.VPos;
+import javafx.scene.layout.Region;
+
+/**
+ * A fixed-size box holding an icon, for toolbars, table cells and other places where swapping icons
+ * must not move the surrounding layout.
+ * The box reports its size as exactly {@code getSize()} square (plus insets) and positions the glyph
+ * from the precomputed {@link GlyphMetrics}. The icon is an unmanaged child, so changing it only
+ * repaints the box and never requests a layout pass from the parent; only changing the size does.
+ * The inner icon keeps the {@code nfx-icon} style class, so existing icon CSS still applies to it.
+ *
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class IconBox extends Region {
+    /**
+     * The icon drawn in the box.
+     */
+    private final AbstractIcon graphic;
+
+    /**
+     * Constructs an {@code IconBox} holding a default {@link Icon}.
+     */
+    public IconBox() {
+        this(new Icon());
+    }
+
+    /**
+     * Constructs an {@code IconBox} holding an {@link Icon} with the specified name.
+     *
+     * @param icon the icon name
+     */
+    public IconBox(String icon) {
+        this(new Icon(icon));
+    }
+
+    /**
+     * Constructs an {@code IconBox} around the specified icon.
+     *
+     * @param graphic the icon, it must not be part of another parent
+     */
+    public IconBox(AbstractIcon graphic) {
+        super();
+        this.graphic = graphic;
+        initialize();
+    }
+
+    /**
+     * Initializes the component.
+     */
+    private void initialize() {
+        getStyleClass().add("nfx-icon-box");
+
+        graphic.setManaged(false);
+        graphic.setTextOrigin(VPos.BASELINE);
+        getChildren().add(graphic);
+        positionGraphic();
+
+        /*
+         * Registered after the icon's own listeners, so the glyph and its metrics are already updated.
+         */
+        graphic.iconProperty().addListener((
+                obs,
+                o,
+                icon) -> positionGraphic()
+        );
+
+        graphic.sizeProperty().addListener((
+                obs,
+                o,
+                size) -> {
+                    positionGraphic();
+                    requestLayout();
+                }
+        );
+    }
+
+    /**
+     * Returns the icon drawn in the box.
+     *
+     * @return the icon
+     */
+    public AbstractIcon getGraphic() {
+        return graphic;
+    }
+
+    /**
+     * Gets the current icon name.
+     *
+     * @return the icon name
+     */
+    public String getIcon() {
+        return graphic.getIcon();
+    }
+
+    /**
+     * Returns the icon property of the inner icon.
+     *
+     * @return the icon property
+     */
+    public StringProperty iconProperty() {
+        return graphic.iconProperty();
+    }
+
+    /**
+     * Sets the icon name.
+     *
+     * @param icon the new icon name
+     */
+    public void setIcon(String icon) {
+        graphic.setIcon(icon);
+    }
+
+    /**
+     * Gets the size of the box and of the icon.
+     *
+     * @return the size in pixels
+     */
+    public double getSize() {
+        return graphic.getSize();
+    }
+
+    /**
+     * Returns the size property of the inner icon.
+     *
+     * @return the size property
+     */
+    public DoubleProperty sizeProperty() {
+        return graphic.sizeProperty();
+    }
+
+    /**
+     * Sets the size of the box and of the icon.
+     *
+     * @param size the new size in pixels
+     */
+    public void setSize(double size) {
+        graphic.setSize(size);
+    }
+
+    /**
+     * Moves the glyph origin so its visual bounds are centered in the box, without measuring text.
+     */
+    private void positionGraphic() {
+        Insets in = getInsets();
+        double size = graphic.getSize();
+        GlyphMetrics m = graphic.metrics();
+        graphic.setLayoutX(in.getLeft() + m.originX(size, size));
+        graphic.setLayoutY(in.getTop() + m.originY(size, size));
+    }
+
+    /**
+     * Re-applies the glyph position, insets may have changed.
+     */
+    @Override
+    protected void layoutChildren() {
+        positionGraphic();
+    }
+
+    /**
+     * Returns the minimum width, same as the preferred width.
+     *
+     * @param height the height
+     * @return the minimum width
+     */
+    @Override
+    protected double computeMinWidth(double height) {
+        return computePrefWidth(height);
+    }
+
+    /**
+     * Returns the minimum height, same as the preferred height.
+     *
+     * @param width the width
+     * @return the minimum height
+     */
+    @Override
+    protected double computeMinHeight(double width) {
+        return computePrefHeight(width);
+    }
+
+    /**
+     * Returns the icon size plus horizontal insets.
+     *
+     * @param height the height
+     * @return the icon size plus horizontal insets
+     */
+    @Override
+    protected double computePrefWidth(double height) {
+        Insets in = getInsets();
+        return in.getLeft() + graphic.getSize() + in.getRight();
+    }
+
+    /**
+     * Returns the icon size plus vertical insets.
+     *
+     * @param width the width
+     * @return the icon size plus vertical insets
+     */
+    @Override
+    protected double computePrefHeight(double width) {
+        Insets in = getInsets();
+        return in.getTop() + graphic.getSize() + in.getBottom();
+    }
+
+    /**
+     * Returns the maximum width, same as the preferred width.
+     *
+     * @param height the height
+     * @return the maximum width
+     */
+    @Override
+    protected double computeMaxWidth(double height) {
+        return computePrefWidth(height);
+    }
+
+    /**
+     * Returns the maximum height, same as the preferred height.
+     *
+     * @param width the width
+     * @return the maximum height
+     */
+    @Override
+    protected double computeMaxHeight(double width) {
+        return computePrefHeight(width);
+    }
+
+    /**
+     * Returns the baseline of the centered glyph.
+     *
+     * @return the baseline offset
+     */
+    @Override
+    public double getBaselineOffset() {
+        return graphic.getLayoutY();
+    }
+}
@@ -0,0 +1,127 @@
+package xss.it.nfx.icons;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+/**
+ * Read-only access to the bundled icon catalog ({@code all.properties}) and its font files.
+ * This class has no JavaFX dependency, so it can be used by headless consumers as well as by
+ * {@link Icon}.
+ *
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class IconCatalog {
+    /**
+     * Resource folder holding the catalog and the fonts.
+     */
+    private static final String BASE = "/xss/it/nfx/icons/";
+
+    /**
+     * Font files referenced by the catalog, relative to {@link #BASE}.
+     */
+    private static final List<String> FONTS = List.of(
+            "525icons.ttf",
+            "emojione-svg.otf",
+            "fa-brands-400.ttf",
+            "feather.ttf",
+            "fontawesome-webfont.ttf",
+            "m-webfont.ttf",
+            "MaterialIcons-Regular.ttf",
+            "octicons.ttf",
+            "weathericons-regular-webfont.ttf"
+    );
+
+    /**
+     * A {@link ResourceBundle} containing icon names and their corresponding unicode values.
+     */
+    private static final ResourceBundle ICONS = ResourceBundle.getBundle("xss/it/nfx/icons/all");
+
+    /**
+     * Utility class.
+     */
+    private IconCatalog() {
+    }
+
+    /**
+     * Returns the catalog as a {@link ResourceBundle}.
+     *
+     * @return the icon bundle
+     */
+    public static ResourceBundle bundle() {
+        return ICONS;
+    }
+
+    /**
+     * Returns the font files referenced by the catalog.
+     *
+     * @return an unmodifiable {@link List} of font file names
+     */
+    public static List<String> fonts() {
+        return FONTS;
+    }
+
+    /**
+     * Opens one of the bundled font files.
+     *
+     * @param file a font file name as returned by {@link #fonts()}
+     * @return the font stream, or {@code null} if the file is not bundled
+     */
+    public static InputStream openFont(String file) {
+        return IconCatalog.class.getResourceAsStream(BASE + file);
+    }
+
+    /**
+     * Returns the sorted list of icon names in the catalog.
+     *
+     * @return a {@link List} of icon names
+     */
+    public static List<String> names() {
+        List<String> keys = Collections.list(ICONS.getKeys());
+        Collections.sort(keys);
+        return keys;
+    }
+
+    /**
+     * Looks up an icon by name, ignoring case.
+     *
+     * @param name the icon name
+     * @return the resolved {@link IconGlyph}, or {@code null} if the name is unknown
+     */
+    public static IconGlyph glyph(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        try {
+            String value = ICONS.getString(name.toUpperCase(Locale.ROOT));
+            return value.isBlank() ? null : parse(value);
+        } catch (MissingResourceException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses a catalog value of the form {@code glyph/font}, where the glyph is either the
+     * character itself or a {@code U+XXXX} code point.
+     *
+     * @param value the raw catalog value
+     * @return the parsed {@link IconGlyph}
+     * @throws IllegalArgumentException if the value is not a valid icon entry
+     */
+    public static IconGlyph parse(String value) {
+        String[] parts = value.split("/");
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("No valid Icon was found");
+        }
+        String part = parts[0];
+        if (part.startsWith("U+")) {
+            part = "0x" + part.replace("U+", "");
+            part = new String(Character.toChars(Integer.decode(part)));
+        }
+        return new IconGlyph(part, parts[1]);
+    }
+}
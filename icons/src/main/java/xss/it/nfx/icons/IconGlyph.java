@@ -0,0 +1,13 @@
+package xss.it.nfx.icons;
+
+/**
+ * A resolved icon entry from the catalog: the glyph text and the font it is drawn with.
+ *
+ * @param text   the glyph as a {@link String}, usually a single code point
+ * @param family the font name the glyph belongs to
+ *
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public record IconGlyph(String text, String family) {
+}
@@ -0,0 +1,493 @@
+package xss.it.nfx.icons;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.css.*;
+import javafx.geometry.Bounds;
+import javafx.geometry.VPos;
+import javafx.scene.AccessibleRole;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A single node rendering text with inline icon tokens, for example {@code "3 :BELL: alerts"}.
+ * Tokens of the form {@code :NAME:} are resolved against the icon catalog and drawn at the font size,
+ * unknown names are kept as plain text. The whole run is painted on one canvas, and parsed runs are
+ * shared between instances through a bounded cache, so the string is only parsed when it changes.
+ * <p>
+ * The run is rasterized like any canvas: it is not selectable, has no ellipsis or overrun handling,
+ * and can look soft under scale transforms. Screen readers get the plain text, with icons read by name.
+ * Like other nodes, an {@code IconText} may be built and updated on any thread until it is attached to
+ * a showing scene; the shared run cache and the text measurement are safe for that.
+ *
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class IconText extends Canvas {
+    /**
+     * Maximum number of parsed runs kept in the shared cache.
+     */
+    private static final int RUN_CACHE_SIZE = 1024;
+
+    /**
+     * Parsed runs keyed by source string, least recently used evicted first.
+     * Access-ordered, so even reads modify it; every access is synchronized on the map.
+     */
+    private static final Map<String, List<Segment>> RUNS = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<Segment>> eldest) {
+            return size() > RUN_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Off-scene text used to measure plain segments, one per thread so off-thread construction is safe.
+     */
+    private static final ThreadLocal<Text> MEASURE = ThreadLocal.withInitial(Text::new);
+
+    /**
+     * The run currently displayed.
+     */
+    private List<Segment> run = List.of();
+
+    /**
+     * The string {@link #run} was parsed from.
+     */
+    private String parsed = null;
+
+    /**
+     * Advance of each segment in {@link #run}.
+     */
+    private double[] advances = new double[0];
+
+    /**
+     * Font of each segment in {@link #run}, resolved on layout and reused by every repaint.
+     */
+    private Font[] fonts = new Font[0];
+
+    /**
+     * Baseline of each segment in {@link #run}, from the top of the node.
+     */
+    private double[] baselines = new double[0];
+
+    /**
+     * Baseline of the plain text, from the top of the node.
+     */
+    private double baseline = 0;
+
+    /**
+     * Constructs an empty {@code IconText}.
+     */
+    public IconText() {
+        this("");
+    }
+
+    /**
+     * Constructs an {@code IconText} with the specified text.
+     *
+     * @param text the text, may contain {@code :NAME:} icon tokens
+     */
+    public IconText(String text) {
+        super();
+        Icon.registerFonts();
+        getStyleClass().add("nfx-icon-text");
+        setAccessibleRole(AccessibleRole.TEXT);
+        textProperty().addListener((
+                obs,
+                o,
+                t) -> handleText(t)
+        );
+        fontProperty().addListener((
+                obs,
+                o,
+                f) -> layoutRun()
+        );
+        fillProperty().addListener((
+                obs,
+                o,
+                f) -> draw()
+        );
+        setText(text);
+        handleText(getText());
+    }
+
+    /**
+     * The property representing the text.
+     */
+    private final StringProperty text = new SimpleStringProperty(this, "text", "");
+
+    /**
+     * Gets the current text.
+     *
+     * @return the text
+     */
+    public String getText() {
+        return text.get();
+    }
+
+    /**
+     * Returns the {@code StringProperty} representing the text.
+     *
+     * @return the text property
+     */
+    public StringProperty textProperty() {
+        return text;
+    }
+
+    /**
+     * Sets the text.
+     *
+     * @param text the text, may contain {@code :NAME:} icon tokens
+     */
+    public void setText(String text) {
+        this.text.set(text);
+    }
+
+    /**
+     * The property representing the font of the plain text, icons use its size.
+     */
+    private ObjectProperty<Font> font;
+
+    /**
+     * Gets the current font.
+     *
+     * @return the font
+     */
+    public Font getFont() {
+        return fontProperty().get();
+    }
+
+    /**
+     * Returns the {@code ObjectProperty} representing the font.
+     *
+     * @return the font property
+     */
+    public ObjectProperty<Font> fontProperty() {
+        if (font == null) {
+            font = new SimpleStyleableObjectProperty<>(
+                    Styleables.FONT,
+                    this,
+                    "font",
+                    Font.getDefault()
+            );
+        }
+        return font;
+    }
+
+    /**
+     * Sets the font.
+     *
+     * @param font the new font
+     */
+    public void setFont(Font font) {
+        fontProperty().set(font);
+    }
+
+    /**
+     * The property representing the paint used for text and icons.
+     */
+    private ObjectProperty<Paint> fill;
+
+    /**
+     * Gets the current fill.
+     *
+     * @return the fill
+     */
+    public Paint getFill() {
+        return fillProperty().get();
+    }
+
+    /**
+     * Returns the {@code ObjectProperty} representing the fill.
+     *
+     * @return the fill property
+     */
+    public ObjectProperty<Paint> fillProperty() {
+        if (fill == null) {
+            fill = new SimpleStyleableObjectProperty<>(
+                    Styleables.FILL,
+                    this,
+                    "fill",
+                    Color.BLACK
+            );
+        }
+        return fill;
+    }
+
+    /**
+     * Sets the fill.
+     *
+     * @param fill the new fill
+     */
+    public void setFill(Paint fill) {
+        fillProperty().set(fill);
+    }
+
+    /**
+     * Returns the baseline of the plain text so the node lines up with labels.
+     *
+     * @return the baseline offset
+     */
+    @Override
+    public double getBaselineOffset() {
+        return baseline;
+    }
+
+    /**
+     * Re-parses the text if the string actually changed, then lays the run out.
+     *
+     * @param value the new text
+     */
+    private void handleText(String value) {
+        String str = value == null ? "" : value;
+        if (str.equals(parsed)) return;
+        parsed = str;
+        run = parse(str);
+        setAccessibleText(plainText(run));
+        layoutRun();
+    }
+
+    /**
+     * Measures every segment, resolves its font and baseline, and resizes the canvas to fit the run.
+     */
+    private void layoutRun() {
+        Font f = getFont() == null ? Font.getDefault() : getFont();
+        double size = f.getSize();
+
+        Text measure = MEASURE.get();
+        measure.setFont(f);
+        measure.setText("M");
+        Bounds line = measure.getLayoutBounds();
+        double lineHeight = line.getHeight();
+        double height = Math.ceil(Math.max(lineHeight, size));
+        baseline = (height - lineHeight) / 2 - line.getMinY();
+
+        int count = run.size();
+        advances = new double[count];
+        fonts = new Font[count];
+        baselines = new double[count];
+        Map<String, Font> iconFonts = new HashMap<>();
+        double width = 0;
+        for (int i = 0; i < count; i++) {
+            Segment segment = run.get(i);
+            IconGlyph glyph = segment.glyph();
+            if (glyph == null) {
+                measure.setText(segment.text());
+                advances[i] = measure.getLayoutBounds().getWidth();
+                fonts[i] = f;
+                baselines[i] = baseline;
+            } else {
+                GlyphMetrics m = GlyphMetrics.of(glyph);
+                advances[i] = m.advance() * size;
+                fonts[i] = iconFonts.computeIfAbsent(glyph.family(), family -> new Font(family, size));
+                baselines[i] = m.originY(height, size);
+            }
+            width += advances[i];
+        }
+        measure.setText("");
+
+        setWidth(Math.ceil(width));
+        setHeight(height);
+        draw();
+    }
+
+    /**
+     * Paints the run with the fonts and baselines resolved by the last layout.
+     */
+    private void draw() {
+        GraphicsContext g = getGraphicsContext2D();
+        g.clearRect(0, 0, getWidth(), getHeight());
+        g.setFill(getFill());
+        g.setTextAlign(TextAlignment.LEFT);
+        g.setTextBaseline(VPos.BASELINE);
+
+        double x = 0;
+        for (int i = 0; i < run.size(); i++) {
+            Segment segment = run.get(i);
+            IconGlyph glyph = segment.glyph();
+            g.setFont(fonts[i]);
+            g.fillText(glyph == null ? segment.text() : glyph.text(), x, baselines[i]);
+            x += advances[i];
+        }
+    }
+
+    /**
+     * Returns the text read by screen readers, icons are read by name.
+     *
+     * @param run the parsed run
+     * @return the plain text
+     */
+    private static String plainText(List<Segment> run) {
+        StringBuilder sb = new StringBuilder();
+        for (Segment segment : run) {
+            sb.append(segment.text());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the parsed run of a string, from the shared cache when possible.
+     *
+     * @param str the source string
+     * @return the immutable list of segments
+     */
+    private static List<Segment> parse(String str) {
+        synchronized (RUNS) {
+            List<Segment> cached = RUNS.get(str);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        List<Segment> segments = tokenize(str);
+        synchronized (RUNS) {
+            RUNS.put(str, segments);
+        }
+        return segments;
+    }
+
+    /**
+     * Splits a string into plain text and icon segments.
+     * A {@code :NAME:} token becomes an icon when the name is in the catalog, otherwise it stays text.
+     *
+     * @param str the source string
+     * @return the immutable list of segments
+     */
+    private static List<Segment> tokenize(String str) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder plain = new StringBuilder();
+        int i = 0;
+        while (i < str.length()) {
+            char c = str.charAt(i);
+            int end = c == ':' ? tokenEnd(str, i + 1) : -1;
+            String name = end > 0 ? str.substring(i + 1, end) : null;
+            IconGlyph glyph = name != null ? IconCatalog.glyph(name) : null;
+            if (glyph == null) {
+                plain.append(c);
+                i++;
+                continue;
+            }
+            if (!plain.isEmpty()) {
+                segments.add(new Segment(plain.toString(), null));
+                plain.setLength(0);
+            }
+            segments.add(new Segment(name.toLowerCase(Locale.ROOT).replace('_', ' '), glyph));
+            i = end + 1;
+        }
+        if (!plain.isEmpty()) {
+            segments.add(new Segment(plain.toString(), null));
+        }
+        return List.copyOf(segments);
+    }
+
+    /**
+     * Finds the closing colon of a token whose name starts at {@code from}.
+     *
+     * @param str  the source string
+     * @param from the index of the first name character
+     * @return the index of the closing colon, or {@code -1} if there is no valid token
+     */
+    private static int tokenEnd(String str, int from) {
+        for (int i = from; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c == ':') {
+                return i > from ? i : -1;
+            }
+            if (!(Character.isLetterOrDigit(c) || c == '_')) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A piece of the run, plain text when {@code glyph} is {@code null}.
+     *
+     * @param text  the text to draw, or the readable icon name for icons
+     * @param glyph the resolved icon, or {@code null}
+     */
+    private record Segment(String text, IconGlyph glyph) {
+    }
+
+    /**
+     * A private static class containing CSS styleable properties for {@code IconText}.
+     */
+    @SuppressWarnings("all")
+    private static final class Styleables {
+        /**
+         * The CSS metadata for the font.
+         */
+        public static final FontCssMetaData<IconText> FONT =
+                new FontCssMetaData<>("-fx-font", Font.getDefault()) {
+                    @Override
+                    public boolean isSettable(IconText s) {
+                        return s.font == null || !s.font.isBound();
+                    }
+
+                    @Override
+                    public StyleableProperty<Font> getStyleableProperty(IconText s) {
+                        return (StyleableProperty<Font>) s.fontProperty();
+                    }
+                };
+
+        /**
+         * The CSS metadata for the fill.
+         */
+        public static final CssMetaData<IconText, Paint> FILL =
+                new CssMetaData<>("-fx-fill", StyleConverter.getPaintConverter(), Color.BLACK) {
+                    @Override
+                    public boolean isSettable(IconText s) {
+                        return s.fill == null || !s.fill.isBound();
+                    }
+
+                    @Override
+                    public StyleableProperty<Paint> getStyleableProperty(IconText s) {
+                        return (StyleableProperty<Paint>) s.fillProperty();
+                    }
+                };
+
+        /**
+         * A list containing all CSS metadata properties for styleable attributes.
+         */
+        private static final List<CssMetaData<? extends Styleable, ?>> STYLEABLES;
+
+        static {
+            final List<CssMetaData<? extends Styleable, ?>> styleables = new ArrayList<>(Node.getClassCssMetaData());
+            Collections.addAll(styleables, FONT, FILL);
+            STYLEABLES = Collections.unmodifiableList(styleables);
+        }
+    }
+
+    /**
+     * Returns the list of CSS metadata for the class.
+     *
+     * @return a {@link List} of {@link CssMetaData} defining styleable properties
+     */
+    public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() {
+        return Styleables.STYLEABLES;
+    }
+
+    /**
+     * Returns the list of CSS metadata applicable to this instance.
+     *
+     * @return a {@link List} of {@link CssMetaData} defining styleable properties
+     */
+    @Override
+    public List<CssMetaData<? extends Styleable, ?>> getCssMetaData() {
+        return getClassCssMetaData();
+    }
+}
@@ -0,0 +1,129 @@
+package xss.it.nfx.icons.tools;
+
+import xss.it.nfx.icons.IconCatalog;
+import xss.it.nfx.icons.IconGlyph;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Build-time tool writing the glyph metrics table read by {@code GlyphMetrics}.
+ * Every catalog glyph whose font is bundled gets one line
+ * {@code U+XXXX/Font=advance,minX,minY,maxX,maxY}, normalized to a 1 unit em with y growing downwards
+ * from the baseline, the same orientation JavaFX uses.
+ *
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class GlyphMetricsGenerator {
+    /**
+     * Size the glyphs are measured at before normalizing.
+     */
+    private static final float EM = 1000f;
+
+    /**
+     * Utility class.
+     */
+    private GlyphMetricsGenerator() {
+    }
+
+    /**
+     * Writes the metrics table.
+     *
+     * @param args the output file
+     * @throws IOException if the table cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: GlyphMetricsGenerator <output file>");
+        }
+        Map<String, Font> fonts = loadFonts();
+        FontRenderContext frc = new FontRenderContext(null, true, true);
+
+        Map<String, String> table = new TreeMap<>();
+        int skipped = 0;
+        for (String name : IconCatalog.names()) {
+            IconGlyph glyph = IconCatalog.glyph(name);
+            Font font = glyph == null ? null : fonts.get(glyph.family().toLowerCase(Locale.ROOT));
+            if (font == null) {
+                skipped++;
+                continue;
+            }
+            GlyphVector gv = font.createGlyphVector(frc, glyph.text());
+            Rectangle2D visual = gv.getVisualBounds();
+            double advance = gv.getLogicalBounds().getWidth();
+            table.put(key(glyph), format(advance) + "," + format(visual.getMinX()) + "," + format(visual.getMinY())
+                    + "," + format(visual.getMaxX()) + "," + format(visual.getMaxY()));
+        }
+
+        Path out = Path.of(args[0]);
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        try (Writer w = Files.newBufferedWriter(out, StandardCharsets.ISO_8859_1)) {
+            w.write("# Generated by GlyphMetricsGenerator, do not edit.\n");
+            w.write("# glyph/font=advance,minX,minY,maxX,maxY (em units, y down from the baseline)\n");
+            for (Map.Entry<String, String> e : table.entrySet()) {
+                w.write(e.getKey().replace(" ", "\\ "));
+                w.write('=');
+                w.write(e.getValue());
+                w.write('\n');
+            }
+        }
+        System.out.println("Wrote " + table.size() + " glyph metrics to " + out + " (" + skipped + " icons without a bundled font)");
+    }
+
+    /**
+     * Returns the table key of a glyph, {@code U+XXXX/Font}.
+     *
+     * @param glyph the glyph
+     * @return the key
+     */
+    private static String key(IconGlyph glyph) {
+        return "U+" + Integer.toHexString(glyph.text().codePointAt(0)).toUpperCase(Locale.ROOT) + "/" + glyph.family();
+    }
+
+    /**
+     * Loads the bundled fonts at {@link #EM} size, keyed by lower-cased face name and family.
+     *
+     * @return the fonts
+     * @throws IOException if a font cannot be read
+     */
+    private static Map<String, Font> loadFonts() throws IOException {
+        Map<String, Font> fonts = new HashMap<>();
+        for (String file : IconCatalog.fonts()) {
+            try (InputStream in = IconCatalog.openFont(file)) {
+                if (in == null) {
+                    continue;
+                }
+                Font font = Font.createFont(Font.TRUETYPE_FONT, in).deriveFont(EM);
+                fonts.putIfAbsent(font.getFontName(Locale.ROOT).toLowerCase(Locale.ROOT), font);
+                fonts.putIfAbsent(font.getFamily(Locale.ROOT).toLowerCase(Locale.ROOT), font);
+            } catch (FontFormatException e) {
+                System.err.println("Skipping font " + file + ": " + e.getMessage());
+            }
+        }
+        return fonts;
+    }
+
+    /**
+     * Normalizes a measurement to em units with four decimals.
+     *
+     * @param value the measurement at {@link #EM} size
+     * @return the formatted value
+     */
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.4f", value / EM);
+    }
+}
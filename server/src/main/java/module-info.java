@@ -0,0 +1,10 @@
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+module nfx.icons.server {
+    requires java.desktop;
+    requires jdk.httpserver;
+    requires nfx.icons;
+    exports xss.it.nfx.icons.server;
+}
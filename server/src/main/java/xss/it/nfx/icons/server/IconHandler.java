@@ -0,0 +1,371 @@
+package xss.it.nfx.icons.server;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import xss.it.nfx.icons.IconCatalog;
+import xss.it.nfx.icons.IconGlyph;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves {@code GET /icon/{name}?size=&color=&format=}.
+ * <ul>
+ *     <li>{@code size} - edge length in pixels, {@value #DEF_SIZE} by default, at most {@value #MAX_SIZE}</li>
+ *     <li>{@code color} - hex color as {@code RGB}, {@code RRGGBB} or {@code RRGGBBAA}, optionally prefixed with {@code #}</li>
+ *     <li>{@code format} - {@code png} (default) or {@code svg}</li>
+ * </ul>
+ * Responses carry an {@code ETag} derived from the request and the library version, so
+ * {@code If-None-Match} requests are answered with {@code 304} without touching the cache or rendering.
+ * Concurrent misses on the same rendering share a single render.
+ *
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+final class IconHandler implements HttpHandler {
+    /**
+     * Default icon size in pixels.
+     */
+    static final int DEF_SIZE = 24;
+
+    /**
+     * Largest accepted icon size in pixels.
+     */
+    static final int MAX_SIZE = 1024;
+
+    /**
+     * Default fill color, opaque black.
+     */
+    private static final int DEF_COLOR = 0xFF000000;
+
+    /**
+     * Value of the {@code Cache-Control} header; renderings only change with the library version.
+     */
+    private static final String CACHE_CONTROL = "public, max-age=86400";
+
+    /**
+     * Library version, part of every entity tag so upgrades invalidate client copies.
+     */
+    private static final String VERSION = version();
+
+    /**
+     * Path prefix this handler is mounted on.
+     */
+    private final String context;
+
+    /**
+     * Shared renderer.
+     */
+    private final IconRenderer renderer;
+
+    /**
+     * Shared cache of renderings.
+     */
+    private final RenderCache cache;
+
+    /**
+     * Renders in progress, so concurrent misses on one key wait for the same result.
+     */
+    private final Map<RenderKey, CompletableFuture<RenderedIcon>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an {@code IconHandler}.
+     *
+     * @param context  the path prefix, ending with {@code /}
+     * @param renderer the renderer
+     * @param cache    the render cache
+     */
+    IconHandler(String context, IconRenderer renderer, RenderCache cache) {
+        this.context = context;
+        this.renderer = renderer;
+        this.cache = cache;
+    }
+
+    /**
+     * Handles one exchange.
+     *
+     * @param exchange the exchange
+     * @throws IOException if the response cannot be written
+     */
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            serve(exchange);
+        } catch (RuntimeException e) {
+            if (exchange.getResponseCode() == -1) {
+                error(exchange, 500, "Internal error");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Resolves, renders or fetches from cache, and writes the requested icon.
+     *
+     * @param exchange the exchange
+     * @throws IOException if the response cannot be written
+     */
+    private void serve(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        boolean head = "HEAD".equals(method);
+        if (!head && !"GET".equals(method)) {
+            exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+            error(exchange, 405, "Method not allowed");
+            return;
+        }
+
+        String path = exchange.getRequestURI().getRawPath();
+        String name = path.length() > context.length()
+                ? URLDecoder.decode(path.substring(context.length()), StandardCharsets.UTF_8)
+                : "";
+        IconGlyph glyph = name.indexOf('/') < 0 ? IconCatalog.glyph(name) : null;
+        if (glyph == null) {
+            error(exchange, 404, "Unknown icon: " + name);
+            return;
+        }
+        if (!renderer.canRender(glyph)) {
+            error(exchange, 404, "Font not available for icon: " + name);
+            return;
+        }
+
+        RenderKey key;
+        try {
+            key = key(name, query(exchange.getRequestURI().getRawQuery()));
+        } catch (IllegalArgumentException e) {
+            error(exchange, 400, e.getMessage());
+            return;
+        }
+
+        String etag = key.etag(VERSION);
+        Headers headers = exchange.getResponseHeaders();
+        if (matches(exchange.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+            headers.set("ETag", etag);
+            headers.set("Cache-Control", CACHE_CONTROL);
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+
+        RenderedIcon icon;
+        try {
+            icon = fetch(glyph, key);
+        } catch (IOException | RuntimeException e) {
+            error(exchange, 500, "Rendering failed");
+            return;
+        }
+
+        headers.set("ETag", etag);
+        headers.set("Cache-Control", CACHE_CONTROL);
+        headers.set("Content-Type", icon.contentType());
+        if (head) {
+            headers.set("Content-Length", Integer.toString(icon.body().length));
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(200, icon.body().length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(icon.body());
+        }
+    }
+
+    /**
+     * Returns the cached rendering, or renders it once however many requests miss at the same time.
+     *
+     * @param glyph the glyph
+     * @param key   the render key
+     * @return the rendered icon
+     * @throws IOException if the image cannot be encoded
+     */
+    private RenderedIcon fetch(IconGlyph glyph, RenderKey key) throws IOException {
+        RenderedIcon icon = cache.get(key);
+        if (icon != null) {
+            return icon;
+        }
+        CompletableFuture<RenderedIcon> own = new CompletableFuture<>();
+        CompletableFuture<RenderedIcon> running = pending.putIfAbsent(key, own);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException io) {
+                    throw io.getCause();
+                }
+                throw e;
+            }
+        }
+        try {
+            icon = cache.get(key);
+            if (icon == null) {
+                icon = renderer.render(glyph, key);
+                cache.put(key, icon);
+            }
+            own.complete(icon);
+            return icon;
+        } catch (IOException e) {
+            own.completeExceptionally(new UncheckedIOException(e));
+            throw e;
+        } catch (RuntimeException e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            pending.remove(key, own);
+        }
+    }
+
+    /**
+     * Builds the render key from the request parameters.
+     *
+     * @param name  the icon name
+     * @param query the decoded query parameters
+     * @return the render key
+     * @throws IllegalArgumentException if a parameter is invalid
+     */
+    private static RenderKey key(String name, Map<String, String> query) {
+        int size = DEF_SIZE;
+        String s = query.get("size");
+        if (s != null) {
+            try {
+                size = Integer.parseInt(s);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid size: " + s);
+            }
+            if (size < 1 || size > MAX_SIZE) {
+                throw new IllegalArgumentException("Size must be between 1 and " + MAX_SIZE);
+            }
+        }
+
+        String c = query.get("color");
+        int argb = c == null ? DEF_COLOR : color(c);
+
+        RenderKey.Format format = RenderKey.Format.PNG;
+        String f = query.get("format");
+        if (f != null) {
+            try {
+                format = RenderKey.Format.valueOf(f.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid format: " + f);
+            }
+        }
+        return new RenderKey(name.toUpperCase(Locale.ROOT), size, argb, format);
+    }
+
+    /**
+     * Parses a hex color as packed ARGB.
+     *
+     * @param value the color, {@code RGB}, {@code RRGGBB} or {@code RRGGBBAA} with an optional {@code #}
+     * @return the ARGB value
+     * @throws IllegalArgumentException if the value is not a valid color
+     */
+    private static int color(String value) {
+        String hex = value.startsWith("#") ? value.substring(1) : value;
+        try {
+            switch (hex.length()) {
+                case 3 -> {
+                    int rgb = Integer.parseInt(hex, 16);
+                    int r = (rgb >> 8) & 0xF, g = (rgb >> 4) & 0xF, b = rgb & 0xF;
+                    return 0xFF000000 | (r * 0x11) << 16 | (g * 0x11) << 8 | (b * 0x11);
+                }
+                case 6 -> {
+                    return 0xFF000000 | Integer.parseInt(hex, 16);
+                }
+                case 8 -> {
+                    long rgba = Long.parseLong(hex, 16);
+                    return (int) ((rgba & 0xFF) << 24 | rgba >>> 8);
+                }
+                default -> throw new IllegalArgumentException("Invalid color: " + value);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid color: " + value);
+        }
+    }
+
+    /**
+     * Splits and decodes a raw query string.
+     *
+     * @param raw the raw query, may be {@code null}
+     * @return the parameters, the last value wins on duplicates
+     */
+    private static Map<String, String> query(String raw) {
+        Map<String, String> params = new HashMap<>();
+        if (raw == null || raw.isEmpty()) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String k = eq < 0 ? pair : pair.substring(0, eq);
+            String v = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(k, StandardCharsets.UTF_8), URLDecoder.decode(v, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against an entity tag.
+     *
+     * @param header the header value, may be {@code null}
+     * @param etag   the current entity tag
+     * @return {@code true} if the client copy is still valid
+     */
+    private static boolean matches(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the library version stamped into {@code server.properties} at build time.
+     *
+     * @return the version, {@code dev} when the resource was not processed by the build
+     */
+    private static String version() {
+        Properties props = new Properties();
+        try (InputStream in = IconHandler.class.getResourceAsStream("server.properties")) {
+            if (in != null) {
+                props.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String version = props.getProperty("version", "dev");
+        return version.isBlank() || version.contains("$") ? "dev" : version;
+    }
+
+    /**
+     * Sends a plain text error response.
+     *
+     * @param exchange the exchange
+     * @param code     the status code
+     * @param message  the message body
+     * @throws IOException if the response cannot be written
+     */
+    private static void error(HttpExchange exchange, int code, String message) throws IOException {
+        byte[] body = message.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(code, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
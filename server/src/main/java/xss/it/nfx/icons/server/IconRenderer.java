@@ -0,0 +1,210 @@
+package xss.it.nfx.icons.server;
+
+import xss.it.nfx.icons.IconCatalog;
+import xss.it.nfx.icons.IconGlyph;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders catalog glyphs to PNG or SVG using AWT, straight from the bundled fonts.
+ * Only off-screen {@link BufferedImage}s are used, so no display is needed. Instances are immutable after construction and safe for concurrent use.
+ *
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+final class IconRenderer {
+    /**
+     * Fonts keyed by lower-cased face name and family, at size 1.
+     */
+    private final Map<String, Font> fonts = new HashMap<>();
+
+    /**
+     * Rendering context used to build glyph outlines.
+     */
+    private static final FontRenderContext FRC = new FontRenderContext(null, true, true);
+
+    /**
+     * Constructs an {@code IconRenderer} and loads every bundled font AWT can read.
+     * Fonts that are missing or in an unsupported format are skipped.
+     */
+    IconRenderer() {
+        for (String file : IconCatalog.fonts()) {
+            try (InputStream in = IconCatalog.openFont(file)) {
+                if (in == null) {
+                    continue;
+                }
+                Font font = Font.createFont(Font.TRUETYPE_FONT, in);
+                fonts.putIfAbsent(font.getFontName(Locale.ROOT).toLowerCase(Locale.ROOT), font);
+                fonts.putIfAbsent(font.getFamily(Locale.ROOT).toLowerCase(Locale.ROOT), font);
+            } catch (IOException | FontFormatException e) {
+                System.err.println("Unable to load font " + file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Checks whether the font of a glyph is available.
+     *
+     * @param glyph the glyph to check
+     * @return {@code true} if the glyph can be rendered
+     */
+    boolean canRender(IconGlyph glyph) {
+        return font(glyph) != null;
+    }
+
+    /**
+     * Renders a glyph centered in a {@code size} x {@code size} box.
+     *
+     * @param glyph the glyph to render, must satisfy {@link #canRender(IconGlyph)}
+     * @param key   the rendering parameters
+     * @return the encoded icon
+     * @throws IOException if the image cannot be encoded
+     */
+    RenderedIcon render(IconGlyph glyph, RenderKey key) throws IOException {
+        Shape outline = outline(glyph, key.size());
+        byte[] body = key.format() == RenderKey.Format.SVG
+                ? svg(outline, key.size(), key.argb())
+                : png(outline, key.size(), key.argb());
+        return new RenderedIcon(body, key.format().contentType());
+    }
+
+    /**
+     * Returns the font for a glyph, matched by face name or family ignoring case.
+     *
+     * @param glyph the glyph
+     * @return the font, or {@code null} if it is not bundled
+     */
+    private Font font(IconGlyph glyph) {
+        return fonts.get(glyph.family().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Builds the glyph outline at {@code size} pixels, centered in the box.
+     * Glyphs whose visual bounds exceed the em are scaled down to fit, so they are drawn whole like in
+     * the JavaFX {@code Icon} instead of being clipped at the edge.
+     *
+     * @param glyph the glyph
+     * @param size  the box size in pixels
+     * @return the positioned outline
+     */
+    private Shape outline(IconGlyph glyph, int size) {
+        Font font = font(glyph).deriveFont((float) size);
+        Shape shape = font.createGlyphVector(FRC, glyph.text()).getOutline();
+        Rectangle2D bounds = shape.getBounds2D();
+        if (bounds.isEmpty()) {
+            return shape;
+        }
+        double scale = Math.min(1, size / Math.max(bounds.getWidth(), bounds.getHeight()));
+        AffineTransform tx = AffineTransform.getTranslateInstance(size / 2.0, size / 2.0);
+        tx.scale(scale, scale);
+        tx.translate(-bounds.getCenterX(), -bounds.getCenterY());
+        return tx.createTransformedShape(shape);
+    }
+
+    /**
+     * Rasterizes an outline into a transparent PNG.
+     *
+     * @param outline the positioned outline
+     * @param size    the image size in pixels
+     * @param argb    the fill color
+     * @return the PNG bytes
+     * @throws IOException if encoding fails
+     */
+    private static byte[] png(Shape outline, int size, int argb) throws IOException {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+            g.setColor(new Color(argb, true));
+            g.fill(outline);
+        } finally {
+            g.dispose();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Serializes an outline as a single-path SVG document.
+     *
+     * @param outline the positioned outline
+     * @param size    the view box size
+     * @param argb    the fill color
+     * @return the UTF-8 encoded SVG
+     */
+    private static byte[] svg(Shape outline, int size, int argb) {
+        StringBuilder d = new StringBuilder(512);
+        double[] c = new double[6];
+        PathIterator it = outline.getPathIterator(null);
+        boolean evenOdd = it.getWindingRule() == PathIterator.WIND_EVEN_ODD;
+        for (; !it.isDone(); it.next()) {
+            switch (it.currentSegment(c)) {
+                case PathIterator.SEG_MOVETO -> append(d.append('M'), c, 2);
+                case PathIterator.SEG_LINETO -> append(d.append('L'), c, 2);
+                case PathIterator.SEG_QUADTO -> append(d.append('Q'), c, 4);
+                case PathIterator.SEG_CUBICTO -> append(d.append('C'), c, 6);
+                case PathIterator.SEG_CLOSE -> d.append('Z');
+                default -> { }
+            }
+        }
+        StringBuilder svg = new StringBuilder(d.length() + 256)
+                .append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(size)
+                .append("\" height=\"").append(size)
+                .append("\" viewBox=\"0 0 ").append(size).append(' ').append(size).append("\">")
+                .append("<path fill=\"").append(String.format("#%06x", argb & 0xFFFFFF)).append('"');
+        int alpha = argb >>> 24;
+        if (alpha != 0xFF) {
+            svg.append(" fill-opacity=\"").append(number(alpha / 255.0)).append('"');
+        }
+        if (evenOdd) {
+            svg.append(" fill-rule=\"evenodd\"");
+        }
+        svg.append(" d=\"").append(d).append("\"/></svg>");
+        return svg.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends {@code count} coordinates separated by spaces.
+     */
+    private static void append(StringBuilder d, double[] coords, int count) {
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                d.append(' ');
+            }
+            d.append(number(coords[i]));
+        }
+    }
+
+    /**
+     * Formats a coordinate with at most two decimals and no trailing zeros.
+     */
+    private static String number(double value) {
+        long hundredths = Math.round(value * 100);
+        if (hundredths % 100 == 0) {
+            return Long.toString(hundredths / 100);
+        }
+        String s = Double.toString(hundredths / 100.0);
+        return s.endsWith("0") ? s.substring(0, s.length() - 1) : s;
+    }
+}
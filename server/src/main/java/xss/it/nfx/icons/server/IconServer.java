@@ -0,0 +1,166 @@
+package xss.it.nfx.icons.server;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An embeddable HTTP server rendering catalog icons as PNG or SVG, without a JavaFX toolkit or display.
+ * <pre>{@code
+ * IconServer server = new IconServer(8080);
+ * server.start();
+ * // GET http://localhost:8080/icon/BELL?size=32&color=ff5722&format=svg
+ * }</pre>
+ * Requests run on virtual threads when the runtime provides them, on a cached thread pool otherwise.
+ * <p>
+ * Embedders should start the JVM with {@code -Dsun.net.httpserver.nodelay=true}. Without it the JDK
+ * server leaves Nagle's algorithm on, and because headers and body go out as separate writes every
+ * response stalls on the client's delayed ACK (roughly 40 ms), capping a cached icon at a few hundred
+ * requests per second. The JDK reads the property once per JVM, when its HTTP server is first used,
+ * so it must be set on the command line or before any {@code HttpServer} is created. The bundled
+ * launcher and {@link #main(String[])} set it.
+ *
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class IconServer {
+    /**
+     * The default port.
+     */
+    public static final int DEF_PORT = 8080;
+
+    /**
+     * The default byte budget of the render cache, 32 MiB.
+     * Renderings are served from memory until the encoded bodies exceed it, then the least recently
+     * used ones are evicted; a single rendering larger than 1/16 of the budget is never cached.
+     */
+    public static final long DEF_CACHE_BYTES = 32L * 1024 * 1024;
+
+    /**
+     * Path prefix icons are served under.
+     */
+    private static final String CONTEXT = "/icon/";
+
+    /**
+     * The underlying JDK server.
+     */
+    private final HttpServer server;
+
+    /**
+     * Executor handling requests.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Cache of rendered icons.
+     */
+    private final RenderCache cache;
+
+    /**
+     * Constructs an {@code IconServer} listening on all interfaces.
+     *
+     * @param port the port, {@code 0} for an ephemeral one
+     * @throws IOException if the port cannot be bound
+     */
+    public IconServer(int port) throws IOException {
+        this(new InetSocketAddress(port), DEF_CACHE_BYTES);
+    }
+
+    /**
+     * Constructs an {@code IconServer}.
+     *
+     * @param address    the address to bind
+     * @param cacheBytes the byte budget of the render cache
+     * @throws IOException if the address cannot be bound
+     */
+    public IconServer(InetSocketAddress address, long cacheBytes) throws IOException {
+        this.cache = new RenderCache(cacheBytes);
+        this.executor = newExecutor();
+        this.server = HttpServer.create(address, 0);
+        this.server.createContext(CONTEXT, new IconHandler(CONTEXT, new IconRenderer(), cache));
+        this.server.setExecutor(executor);
+    }
+
+    /**
+     * Starts serving requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops the server, waiting up to {@code delay} seconds for running exchanges to finish.
+     *
+     * @param delay the maximum time to wait in seconds
+     */
+    public void stop(int delay) {
+        server.stop(delay);
+        executor.shutdown();
+        cache.clear();
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     *
+     * @return the local port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the number of renderings currently cached.
+     *
+     * @return the cache size
+     */
+    public int cachedCount() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the total size of the renderings currently cached.
+     *
+     * @return the cached bytes
+     */
+    public long cachedBytes() {
+        return cache.bytes();
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor on runtimes that support it, a daemon cached pool otherwise.
+     *
+     * @return the request executor
+     */
+    private static ExecutorService newExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "nfx-icon-server");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    /**
+     * Runs a standalone server.
+     *
+     * @param args optional port, {@value #DEF_PORT} by default
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEF_PORT;
+        IconServer server = new IconServer(port);
+        server.start();
+        System.out.println("Serving icons on http://localhost:" + server.getPort() + CONTEXT + "{name}");
+    }
+}
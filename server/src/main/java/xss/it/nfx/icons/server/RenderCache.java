@@ -0,0 +1,107 @@
+package xss.it.nfx.icons.server;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A thread-safe LRU cache of rendered icons, bounded by the total size of the encoded bodies.
+ *
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+final class RenderCache {
+    /**
+     * Access-ordered map, least recently used entries are evicted first.
+     */
+    private final Map<RenderKey, RenderedIcon> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    /**
+     * Maximum total size of the cached bodies in bytes.
+     */
+    private final long maxBytes;
+
+    /**
+     * Largest body that is cached, bigger renderings are served but not kept.
+     */
+    private final long maxEntryBytes;
+
+    /**
+     * Current total size of the cached bodies in bytes.
+     */
+    private long bytes = 0;
+
+    /**
+     * Constructs a cache holding at most {@code maxBytes} of encoded icons.
+     * A single entry may use at most 1/16 of the budget, so a few huge renderings cannot flush it.
+     *
+     * @param maxBytes the byte budget, must be positive
+     */
+    RenderCache(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache budget must be positive: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = Math.max(1, maxBytes / 16);
+    }
+
+    /**
+     * Returns the cached rendering for {@code key}, marking it as recently used.
+     *
+     * @param key the render key
+     * @return the cached icon, or {@code null} if absent
+     */
+    synchronized RenderedIcon get(RenderKey key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Stores a rendering, evicting least recently used entries until the budget is met.
+     * Renderings larger than the per-entry cap are not stored.
+     *
+     * @param key  the render key
+     * @param icon the rendered icon
+     */
+    synchronized void put(RenderKey key, RenderedIcon icon) {
+        int size = icon.body().length;
+        if (size > maxEntryBytes) {
+            return;
+        }
+        RenderedIcon old = entries.put(key, icon);
+        if (old != null) {
+            bytes -= old.body().length;
+        }
+        bytes += size;
+        Iterator<RenderedIcon> it = entries.values().iterator();
+        while (bytes > maxBytes && it.hasNext()) {
+            bytes -= it.next().body().length;
+            it.remove();
+        }
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the cache size
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the total size of the cached bodies.
+     *
+     * @return the cached bytes
+     */
+    synchronized long bytes() {
+        return bytes;
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+}
@@ -0,0 +1,56 @@
+package xss.it.nfx.icons.server;
+
+import java.util.Locale;
+
+/**
+ * Identifies one rendering of an icon, used as the cache key.
+ *
+ * @param name   the upper-cased icon name
+ * @param size   the edge length of the square output in pixels
+ * @param argb   the fill color as packed ARGB
+ * @param format the output format
+ *
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+record RenderKey(String name, int size, int argb, Format format) {
+
+    /**
+     * Returns the strong entity tag of this rendering.
+     * Output only depends on the key and the bundled catalog and fonts, so the library version
+     * and the key identify it without encoding anything.
+     *
+     * @param version the library version
+     * @return the quoted entity tag
+     */
+    String etag(String version) {
+        return "\"" + version + "-" + name + "-" + size + "-" + Integer.toHexString(argb)
+                + "-" + format.name().toLowerCase(Locale.ROOT) + "\"";
+    }
+
+    /**
+     * Supported output formats.
+     */
+    enum Format {
+        PNG("image/png"),
+        SVG("image/svg+xml");
+
+        /**
+         * The MIME type sent as {@code Content-Type}.
+         */
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        /**
+         * Returns the MIME type of this format.
+         *
+         * @return the content type
+         */
+        String contentType() {
+            return contentType;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package xss.it.nfx.icons.server;
+
+/**
+ * An encoded icon ready to be written to a response.
+ *
+ * @param body        the encoded bytes
+ * @param contentType the MIME type of {@code body}
+ *
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+record RenderedIcon(byte[] body, String contentType) {
+}